@@ -21,12 +21,20 @@
  */
 package com.influxdb.codegen;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableMap;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -44,6 +52,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.openapitools.codegen.CodegenModel;
 import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
 import org.openapitools.codegen.CodegenProperty;
 import org.openapitools.codegen.SupportingFile;
 import org.openapitools.codegen.languages.JavaClientCodegen;
@@ -51,6 +60,69 @@ import org.openapitools.codegen.utils.ModelUtils;
 
 public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGenerator
 {
+	/**
+	 * Operations with large responses that are also exposed as {@code Flowable<ByteBuffer>}.
+	 */
+	private static final List<String> STREAMING_OPERATIONS = Arrays.asList(
+			"postQuery", "postScriptsIDInvoke", "getMetrics", "exportTemplate");
+
+	/**
+	 * Operations with large request body that are also generated with {@code okhttp3.RequestBody} as the body.
+	 */
+	private static final List<String> REQUEST_BODY_OPERATIONS = Arrays.asList(
+			"postWrite", "postWriteRx", "applyTemplate", "postRestoreKV", "postRestoreSQL", "postRestoreShardId");
+
+	/**
+	 * Backup operations with large responses that are also transferred straight to a file.
+	 */
+	private static final List<String> BACKUP_OPERATIONS = Arrays.asList(
+			"getBackupKV", "getBackupMetadata", "getBackupShardId");
+
+	/**
+	 * Restore operations with large request body that are also uploaded straight from a file.
+	 */
+	private static final List<String> RESTORE_OPERATIONS = Arrays.asList(
+			"postRestoreKV", "postRestoreSQL", "postRestoreShardId");
+
+	/**
+	 * Parameters of {@code postWriteRx} which are passed by the {@code WritePipeline}, the others are {@code null}.
+	 */
+	private static final List<String> WRITE_PIPELINE_PARAMS = Arrays.asList(
+			"org", "bucket", "body", "precision");
+
+	/**
+	 * Idempotent lookups that rarely change and their time to live in seconds.
+	 * The other GET operations could be cached by the {@code x-cache-ttl} extension in the specification.
+	 */
+	private static final Map<String, Integer> CACHEABLE_OPERATIONS = ImmutableMap.<String, Integer>builder()
+			.put("getPing", 5)
+			.put("getHealth", 5)
+			.put("getMe", 60)
+			.put("getOrgs", 60)
+			.put("getOrgsID", 60)
+			.put("getBucketsID", 30)
+			.put("getDBRPs", 60)
+			.put("getDBRPsID", 60)
+			.build();
+
+	/**
+	 * String properties with low cardinality which are deduplicated during deserialization.
+	 */
+	private static final List<String> DEDUPLICATED_PROPERTIES = Arrays.asList(
+			"orgID", "ownerID", "userID", "bucketID", "taskID", "org", "bucket", "type", "status");
+
+	/**
+	 * Boxed types which are stored as primitives by the {@code primitiveProperties} mode:
+	 * the primitive type, the absent value, the read and the write expression.
+	 */
+	private static final Map<String, String[]> PRIMITIVE_TYPES = ImmutableMap.<String, String[]>builder()
+			.put("Integer", new String[]{"int", "0", "in.nextInt()", "out.value(value.%s)"})
+			.put("Long", new String[]{"long", "0", "in.nextLong()", "out.value(value.%s)"})
+			.put("Double", new String[]{"double", "0", "in.nextDouble()", "out.value(value.%s)"})
+			.put("Float", new String[]{"float", "0", "(float) in.nextDouble()", "out.value((Number) value.%s)"})
+			.put("Boolean", new String[]{"boolean", "false", "in.peek() == com.google.gson.stream.JsonToken.STRING ? Boolean.parseBoolean(in.nextString()) : in.nextBoolean()", "out.value(value.%s)"})
+			.build();
+
 	private PostProcessHelper postProcessHelper;
 
 	public InfluxJavaGenerator()
@@ -168,9 +240,282 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 		Map<String, Object> allModels = super.postProcessAllModels(models);
 		postProcessHelper.postProcessModels(allModels);
 
+		//
+		// Store numbers and booleans as primitives with presence bits => the models don't hold the boxed values
+		//
+		if (isPrimitiveProperties())
+		{
+			collectPrimitiveModels(allModels);
+		}
+
+		//
+		// Iterative decoder of Flux AST => the deep AST is decoded without JsonElement tree and recursion
+		//
+		if (collectFluxAst(allModels))
+		{
+			String invokerFolder = (this.sourceFolder + '/' + this.invokerPackage).replace(".", "/");
+			this.supportingFiles.add(new SupportingFile("FluxAstDecoder.mustache", invokerFolder, "FluxAstDecoder.java"));
+		}
+
 		return allModels;
 	}
 
+	/**
+	 * Mark the models which are serialized by the generated {@code PresenceAdapter} and their properties
+	 * which are stored as primitives. The models in the inheritance and the models with polymorphic properties
+	 * are left to the reflective adapter, because the generated adapter doesn't resolve the runtime type of values.
+	 */
+	private void collectPrimitiveModels(@NotNull final Map<String, Object> allModels)
+	{
+		List<CodegenModel> models = allModels.values().stream()
+				.map(modelConfig -> postProcessHelper.getModel((HashMap) modelConfig))
+				.collect(Collectors.toList());
+		Set<String> parents = models.stream()
+				.map(model -> model.parent)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		String deduplicatingAdapter = invokerPackage + ".JSON.DeduplicatingStringAdapter";
+
+		for (CodegenModel model : models)
+		{
+			if (model.parent != null || parents.contains(model.classname) || model.discriminator != null
+					|| model.isEnum || model.isArrayModel || !model.hasVars
+					|| model.vendorExtensions.containsKey("x-type-adapters"))
+			{
+				continue;
+			}
+
+			boolean supported = model.vars.stream().allMatch(property -> !"presence".equals(property.name)
+					&& !"Object".equals(property.complexType) && !parents.contains(property.complexType)
+					&& !property.vendorExtensions.containsKey("x-lazy")
+					&& (!property.vendorExtensions.containsKey("x-type-adapter")
+					|| deduplicatingAdapter.equals(property.vendorExtensions.get("x-type-adapter"))));
+
+			List<String> primitives = model.vars.stream()
+					.filter(property -> !property.isContainer && !property.isEnum && property.defaultValue == null)
+					.filter(property -> PRIMITIVE_TYPES.containsKey(property.datatypeWithEnum))
+					.map(property -> property.name)
+					.collect(Collectors.toList());
+			if (!supported || primitives.isEmpty() || primitives.size() > Long.SIZE)
+			{
+				continue;
+			}
+
+			boolean isLong = primitives.size() > Integer.SIZE;
+			model.vendorExtensions.put("x-primitive-model", true);
+			model.vendorExtensions.put("x-presence-type", isLong ? "long" : "int");
+
+			Stream.of(model.vars, model.allVars, model.requiredVars, model.optionalVars, model.readWriteVars, model.readOnlyVars)
+					.filter(Objects::nonNull)
+					.flatMap(Collection::stream)
+					.forEach(property -> {
+						int index = primitives.indexOf(property.name);
+						if (index == -1)
+						{
+							property.vendorExtensions.put("x-json-adapter", deduplicatingAdapter.equals(property.vendorExtensions.get("x-type-adapter"))
+									? "new " + deduplicatingAdapter + "()"
+									: "gson.getAdapter(new com.google.gson.reflect.TypeToken<" + property.datatypeWithEnum + ">() { })");
+							return;
+						}
+
+						String[] primitive = PRIMITIVE_TYPES.get(property.datatypeWithEnum);
+						property.vendorExtensions.put("x-primitive", true);
+						property.vendorExtensions.put("x-getter-access", true);
+						property.vendorExtensions.put("x-primitive-type", primitive[0]);
+						property.vendorExtensions.put("x-primitive-zero", primitive[1]);
+						property.vendorExtensions.put("x-primitive-read", primitive[2]);
+						property.vendorExtensions.put("x-primitive-write", String.format(primitive[3], property.name));
+						property.vendorExtensions.put("x-presence-mask", isLong
+								? String.format("0x%XL", 1L << index)
+								: String.format("0x%X", 1 << index));
+					});
+		}
+	}
+
+	/**
+	 * Collect the models which are reachable from the AST {@code Package} into the {@code fluxAstNodes}
+	 * and the subtypes of polymorphic {@code Statement}, {@code Expression}, ... into the {@code fluxAstSubTypes}.
+	 *
+	 * @return {@code false} if the AST is not part of the specification or the AST is not discriminated by {@code type}
+	 */
+	private boolean collectFluxAst(@NotNull final Map<String, Object> allModels)
+	{
+		Map<String, CodegenModel> models = new HashMap<>();
+		for (Object modelConfig : allModels.values())
+		{
+			CodegenModel model = postProcessHelper.getModel((HashMap) modelConfig);
+			models.put(model.classname, model);
+		}
+
+		CodegenModel root = models.get(toModelName("Package"));
+		if (root == null)
+		{
+			return false;
+		}
+
+		Map<String, CodegenModel> nodes = new TreeMap<>();
+		Map<String, Map<String, String>> subTypes = new TreeMap<>();
+		Deque<CodegenModel> pending = new ArrayDeque<>(Collections.singleton(root));
+		while (!pending.isEmpty())
+		{
+			CodegenModel model = pending.pop();
+			if (nodes.putIfAbsent(model.classname, model) != null)
+			{
+				continue;
+			}
+
+			Map<String, PostProcessHelper.TypeAdapter> adapters = (Map<String, PostProcessHelper.TypeAdapter>) model.vendorExtensions
+					.getOrDefault("x-type-adapters", Collections.emptyMap());
+
+			for (CodegenProperty property : model.allVars)
+			{
+				CodegenModel type = fluxAstNode(models, property);
+				if (type == null)
+				{
+					continue;
+				}
+
+				PostProcessHelper.TypeAdapter adapter = adapters.get(property.vendorExtensions.get("x-type-adapter"));
+				if (adapter != null)
+				{
+					if (!"\"type\"".equals(adapter.discriminator))
+					{
+						return false;
+					}
+
+					for (PostProcessHelper.TypeAdapterItem item : adapter.items)
+					{
+						CodegenModel subType = models.get(toModelName(item.classname));
+						if (subType == null)
+						{
+							return false;
+						}
+
+						// the subtypes which are not assignable to the property can't be decoded
+						if (isSubType(models, subType, type))
+						{
+							subTypes.computeIfAbsent(type.classname, classname -> new TreeMap<>())
+									.put(StringUtils.strip(item.discriminatorValue, "\""), subType.classname);
+							pending.push(subType);
+						}
+					}
+				}
+
+				pending.push(type);
+			}
+		}
+
+		List<Map<String, Object>> fluxAstNodes = new ArrayList<>();
+		for (CodegenModel model : nodes.values())
+		{
+			List<String> properties = model.readWriteVars.stream()
+					.filter(property -> !property.isReadOnly && property.setter != null)
+					.map(property -> fluxAstProperty(models, model, property))
+					.distinct()
+					.collect(Collectors.toList());
+
+			// the polymorphic base is created only as the concrete subtype
+			if (properties.isEmpty() && subTypes.containsKey(model.classname))
+			{
+				continue;
+			}
+
+			Map<String, Object> node = new HashMap<>();
+			node.put("classname", model.classname);
+			node.put("properties", properties);
+			fluxAstNodes.add(node);
+		}
+
+		List<Map<String, Object>> fluxAstSubTypes = new ArrayList<>();
+		subTypes.forEach((base, mapping) -> mapping.forEach((discriminatorValue, classname) -> {
+			Map<String, Object> subType = new HashMap<>();
+			subType.put("base", base);
+			subType.put("discriminatorValue", discriminatorValue);
+			subType.put("classname", classname);
+			fluxAstSubTypes.add(subType);
+		}));
+
+		additionalProperties.put("fluxAstDecoder", true);
+		additionalProperties.put("fluxAstNodes", fluxAstNodes);
+		additionalProperties.put("fluxAstSubTypes", fluxAstSubTypes);
+
+		return true;
+	}
+
+	/**
+	 * @return the AST node of property or its items, {@code null} for scalars, enums and maps
+	 */
+	@Nullable
+	private CodegenModel fluxAstNode(@NotNull final Map<String, CodegenModel> models,
+									 @NotNull final CodegenProperty property)
+	{
+		if (property.isMapContainer)
+		{
+			return null;
+		}
+
+		CodegenProperty type = property.isListContainer ? property.items : property;
+		CodegenModel model = type != null && type.complexType != null ? models.get(type.complexType) : null;
+
+		return model != null && !model.isEnum ? model : null;
+	}
+
+	private boolean isSubType(@NotNull final Map<String, CodegenModel> models,
+							  @NotNull final CodegenModel model,
+							  @NotNull final CodegenModel base)
+	{
+		for (CodegenModel type = model; type != null; type = type.parent != null ? models.get(type.parent) : null)
+		{
+			if (type.classname.equals(base.classname))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the registration of property into the {@code FluxAstDecoder}
+	 */
+	@NotNull
+	private String fluxAstProperty(@NotNull final Map<String, CodegenModel> models,
+								   @NotNull final CodegenModel model,
+								   @NotNull final CodegenProperty property)
+	{
+		String setter = model.classname + "::" + property.setter;
+
+		CodegenModel node = fluxAstNode(models, property);
+		if (node != null)
+		{
+			String kind = property.isListContainer ? "nodes" : "node";
+			return String.format("%s(\"%s\", %s.class, %s)", kind, property.baseName, node.classname, setter);
+		}
+
+		if ("String".equals(property.datatypeWithEnum) && !property.isContainer)
+		{
+			String adapter = (String) property.vendorExtensions.get("x-type-adapter");
+			String kind = (invokerPackage + ".JSON.DeduplicatingStringAdapter").equals(adapter) ? "deduplicatedString" : "string";
+			return String.format("%s(\"%s\", %s)", kind, property.baseName, setter);
+		}
+
+		String type;
+		if (property.isContainer)
+		{
+			type = "new TypeToken<" + property.datatypeWithEnum + ">() { }.getType()";
+		}
+		else if (property.isEnum)
+		{
+			type = model.classname + "." + property.datatypeWithEnum + ".class";
+		}
+		else
+		{
+			type = importMapping().getOrDefault(property.dataType, property.dataType) + ".class";
+		}
+
+		return String.format("value(\"%s\", %s, %s)", property.baseName, type, setter);
+	}
+
 	@Override
 	public void processOpts()
 	{
@@ -190,6 +535,28 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 		//
 		String apiFolder = (this.sourceFolder + '/' + this.apiPackage).replace(".", "/");
 		this.supportingFiles.add(new SupportingFile("api/InfluxQLQueryService.mustache", apiFolder, "InfluxQLQueryService.java"));
+		this.supportingFiles.add(new SupportingFile("api/InfluxQLCsvDecoder.mustache", apiFolder, "InfluxQLCsvDecoder.java"));
+		this.supportingFiles.add(new SupportingFile("api/PrometheusTextDecoder.mustache", apiFolder, "PrometheusTextDecoder.java"));
+		this.supportingFiles.add(new SupportingFile("api/ResponseBodyFlowable.mustache", apiFolder, "ResponseBodyFlowable.java"));
+		this.supportingFiles.add(new SupportingFile("api/RequestBodies.mustache", apiFolder, "RequestBodies.java"));
+		this.supportingFiles.add(new SupportingFile("api/ResponseBodies.mustache", apiFolder, "ResponseBodies.java"));
+		this.supportingFiles.add(new SupportingFile("api/GzipResponseBodyCall.mustache", apiFolder, "GzipResponseBodyCall.java"));
+		this.supportingFiles.add(new SupportingFile("api/Paginator.mustache", apiFolder, "Paginator.java"));
+		this.supportingFiles.add(new SupportingFile("api/BlockingCalls.mustache", apiFolder, "BlockingCalls.java"));
+		this.supportingFiles.add(new SupportingFile("api/ResponseCacheInterceptor.mustache", apiFolder, "ResponseCacheInterceptor.java"));
+		this.supportingFiles.add(new SupportingFile("api/WritePipeline.mustache", apiFolder, "WritePipeline.java"));
+
+		String invokerFolder = (this.sourceFolder + '/' + this.invokerPackage).replace(".", "/");
+		this.supportingFiles.add(new SupportingFile("PooledJsonConverterFactory.mustache", invokerFolder, "PooledJsonConverterFactory.java"));
+
+		//
+		// Lazy holders for polymorphic properties
+		//
+		additionalProperties.put("lazyPolymorphicProperties", isLazyPolymorphicProperties());
+		if (isLazyPolymorphicProperties())
+		{
+			this.supportingFiles.add(new SupportingFile("LazyJsonValue.mustache", invokerFolder, "LazyJsonValue.java"));
+		}
 	}
 
 	@Override
@@ -203,6 +570,20 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 				.get("operations"))
 				.get("operation");
 
+		//
+		// Mark idempotent lookups => they are cached by the ResponseCacheInterceptor
+		//
+		operations.stream()
+				.filter(operation -> "GET".equals(operation.httpMethod))
+				.filter(operation -> CACHEABLE_OPERATIONS.containsKey(operation.operationId)
+						|| operation.vendorExtensions.containsKey("x-cache-ttl"))
+				.forEach(operation -> {
+					operation.vendorExtensions.putIfAbsent("x-cache-ttl", CACHEABLE_OPERATIONS.get(operation.operationId));
+					operation.vendorExtensions.put("x-cacheable", true);
+					operation.vendorExtensions.put("x-cache-path-pattern",
+							"^(.*/)?" + operation.path.replaceAll("\\{[^/]+}", "[^/]+") + "$");
+				});
+
         //
         // For operations with more response type (Accept) generate additional implementation
         //
@@ -292,6 +673,32 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 			});
 		});
 
+		//
+		// Add raw variants of JSON operations => the payload could be forwarded or cached without Gson
+		//
+		if (isRawResponseVariants())
+		{
+			for (CodegenOperation operation : new ArrayList<>(operations))
+			{
+				if (operation.returnType == null || "ResponseBody".equals(responseType(operation))
+						|| operation.vendorExtensions.containsKey("x-response-type")
+						|| findOperation(operations, operation.operationId + "ResponseBody") != null)
+				{
+					continue;
+				}
+
+				if (operation.produces == null || operation.produces.stream()
+						.noneMatch(produce -> "application/json".equals(produce.get("mediaType"))))
+				{
+					continue;
+				}
+
+				CodegenOperation operationBody = createOperationVariant(operation, operation.operationId + "ResponseBody");
+				operationBody.returnType = "ResponseBody";
+				operations.add(operations.indexOf(operation) + 1, operationBody);
+			}
+		}
+
 		//
 		// Add Reactive operation for /write
 		//
@@ -324,6 +731,80 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 					.forEach(operation -> operation.vendorExtensions.put("x-response-streaming", true));
 		}
 
+		//
+		// Add Flowable of chunks for large responses => the body is read from the HTTP source on demand
+		//
+		for (String operationId : STREAMING_OPERATIONS)
+		{
+			CodegenOperation operation = findOperation(operations, operationId);
+			if (operation == null)
+			{
+				continue;
+			}
+
+			CodegenOperation operationBody = findOperation(operations, operationId + "ResponseBody");
+			if (operationBody == null)
+			{
+				operationBody = createOperationVariant(operation, operationId + "ResponseBody");
+				operationBody.returnType = "ResponseBody";
+				operations.add(operations.indexOf(operation) + 1, operationBody);
+			}
+			operationBody.vendorExtensions.put("x-response-streaming", true);
+
+			List<CodegenParameter> params = copyParams(operationBody.allParams);
+			params.add(createParam("chunkSize", "int", "The maximum size of emitted chunk in bytes"));
+
+			String body = "ResponseBodyFlowable.chunks(" + invocation(operationBody) + ", chunkSize)";
+			CodegenOperation operationFlowable = createDefaultMethod(operationBody, operationId + "Flowable",
+					"Flowable<ByteBuffer>", params, body);
+			operations.add(operations.indexOf(operationBody) + 1, operationFlowable);
+
+			addImport(objs, "io.reactivex.rxjava3.core.Flowable", "Flowable");
+			addImport(objs, "java.nio.ByteBuffer", "ByteBuffer");
+		}
+
+		//
+		// Add transfer to file for backups => the body is moved from the socket to the file without heap buffers
+		//
+		for (String operationId : BACKUP_OPERATIONS)
+		{
+			CodegenOperation operation = findOperation(operations, operationId);
+			if (operation == null)
+			{
+				continue;
+			}
+
+			CodegenOperation operationBody = operation;
+			if (!"ResponseBody".equals(responseType(operation)))
+			{
+				operationBody = findOperation(operations, operationId + "ResponseBody");
+				if (operationBody == null)
+				{
+					operationBody = createOperationVariant(operation, operationId + "ResponseBody");
+					operationBody.returnType = "ResponseBody";
+					operations.add(operations.indexOf(operation) + 1, operationBody);
+				}
+			}
+			operationBody.vendorExtensions.put("x-response-streaming", true);
+
+			List<CodegenParameter> paramsPath = copyParams(operationBody.allParams);
+			paramsPath.add(createParam("path", "Path", "The file to which the backup is written, the existing file is truncated"));
+
+			List<CodegenParameter> paramsChannel = copyParams(operationBody.allParams);
+			paramsChannel.add(createParam("channel", "FileChannel", "The file channel to which the backup is written"));
+			paramsChannel.add(createParam("position", "long", "The position within the file at which the backup is written"));
+
+			String call = invocation(operationBody);
+			CodegenOperation operationPath = createDefaultMethod(operationBody, operationId + "ToPath", "long",
+					paramsPath, "ResponseBodies.transferTo(" + call + ", path)");
+			CodegenOperation operationChannel = createDefaultMethod(operationBody, operationId + "ToChannel", "long",
+					paramsChannel, "ResponseBodies.transferTo(" + call + ", channel, position)");
+			operations.addAll(operations.indexOf(operationBody) + 1, Arrays.asList(operationPath, operationChannel));
+
+			addImport(objs, "java.nio.file.Path", "Path");
+			addImport(objs, "java.nio.channels.FileChannel", "FileChannel");
+		}
+
 		//
 		// Add ResponseBody type for /ping endpoint => avaible to read Headers
 		//
@@ -331,6 +812,325 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 			operations.forEach(operation -> operation.returnType = "ResponseBody");
 		}
 
+		//
+		// Add overloads with RequestBody => the body could be streamed from a file or an off-heap buffer
+		//
+		for (String operationId : REQUEST_BODY_OPERATIONS)
+		{
+			CodegenOperation operation = findOperation(operations, operationId);
+			if (operation == null || operation.allParams.stream().noneMatch(param -> param.isBodyParam))
+			{
+				continue;
+			}
+
+			CodegenOperation overload = createOperationVariant(operation, operationId);
+			overload.vendorExtensions.putAll(operation.vendorExtensions);
+			overload.allParams = copyParams(operation.allParams);
+			overload.allParams.stream()
+					.filter(param -> param.isBodyParam)
+					.forEach(param -> param.dataType = "RequestBody");
+
+			operations.add(operations.indexOf(operation) + 1, overload);
+
+			//
+			// Add gzip variant => the body is compressed while it is written to the socket
+			//
+			Map<String, String> arguments = new HashMap<>();
+			overload.allParams.stream()
+					.filter(param -> param.isBodyParam)
+					.forEach(param -> arguments.put(param.paramName, "RequestBodies.gzip(" + param.paramName + ")"));
+			overload.allParams.stream()
+					.filter(param -> "Content-Encoding".equals(param.baseName))
+					.forEach(param -> arguments.put(param.paramName, "\"gzip\""));
+			overload.allParams.stream()
+					.filter(param -> "Content-Length".equals(param.baseName))
+					.forEach(param -> arguments.put(param.paramName, "null"));
+
+			List<CodegenParameter> params = copyParams(operation.allParams);
+			params.removeIf(param -> !param.isBodyParam && arguments.containsKey(param.paramName));
+			// only String is encoded by RequestBodies, the other bodies are passed as RequestBody
+			params.stream()
+					.filter(param -> param.isBodyParam && !"String".equals(param.dataType))
+					.forEach(param -> param.dataType = "RequestBody");
+
+			String responseType = (String) operation.vendorExtensions
+					.getOrDefault("x-response-type", "Call<" + responseType(operation) + ">");
+			CodegenOperation operationGzip = createDefaultMethod(operation, operationId + "Gzip", responseType,
+					params, invocation(overload, arguments));
+			operations.add(operations.indexOf(overload) + 1, operationGzip);
+		}
+
+		//
+		// Add CompletableFuture variants => calls are enqueued without parking a thread per request
+		//
+		new ArrayList<>(operations).stream()
+				.filter(operation -> !operation.vendorExtensions.containsKey("x-default-method"))
+				.filter(operation -> !operation.vendorExtensions.containsKey("x-response-type"))
+				.forEach(operation -> {
+					String responseType = responseType(operation);
+
+					CodegenOperation operationAsync = createOperationVariant(operation, operation.operationId + "Async");
+					operationAsync.vendorExtensions.put("x-response-type", "CompletableFuture<" + responseType + ">");
+
+					CodegenOperation operationAsyncWithResponse = createOperationVariant(operation, operation.operationId + "AsyncWithResponse");
+					operationAsyncWithResponse.vendorExtensions.put("x-response-type", "CompletableFuture<Response<" + responseType + ">>");
+
+					for (CodegenOperation variant : Arrays.asList(operationAsync, operationAsyncWithResponse))
+					{
+						if (operation.vendorExtensions.containsKey("x-response-streaming"))
+						{
+							variant.vendorExtensions.put("x-response-streaming", true);
+						}
+					}
+
+					int index = operations.indexOf(operation);
+					operations.add(index + 1, operationAsync);
+					operations.add(index + 2, operationAsyncWithResponse);
+
+					addImport(objs, "java.util.concurrent.CompletableFuture", "CompletableFuture");
+					addImport(objs, "retrofit2.Response", "Response");
+				});
+
+		//
+		// Mark the write responses with Retry-After header => they are retried by the WritePipeline
+		//
+		CodegenOperation operationWrite = findOperation(operations, "postWrite");
+		CodegenOperation operationWriteRx = findOperation(operations, "postWriteRx");
+		if (operationWrite != null && operationWriteRx != null)
+		{
+			List<String> retryAfterCodes = operationWrite.responses.stream()
+					.filter(response -> response.headers.stream()
+							.anyMatch(header -> "Retry-After".equalsIgnoreCase(header.baseName)))
+					.map(response -> response.code)
+					.filter(code -> code.matches("\\d{3}"))
+					.collect(Collectors.toList());
+			operationWriteRx.vendorExtensions.put("x-retry-after-codes", retryAfterCodes);
+
+			// the optional parameters are derived from the operation => the call follows the changes of spec
+			Map<String, String> arguments = new HashMap<>();
+			operationWriteRx.allParams.stream()
+					.filter(param -> !WRITE_PIPELINE_PARAMS.contains(param.paramName))
+					.forEach(param -> arguments.put(param.paramName, "null"));
+			operationWriteRx.vendorExtensions.put("x-write-pipeline-invocation", invocation(operationWriteRx, arguments));
+		}
+
+		//
+		// Add restore from file => the upload is transferred from the file to the socket without heap buffers
+		//
+		for (String operationId : RESTORE_OPERATIONS)
+		{
+			CodegenOperation overload = operations.stream()
+					.filter(operation -> operationId.equals(operation.operationId))
+					.filter(operation -> operation.allParams.stream()
+							.anyMatch(param -> param.isBodyParam && "RequestBody".equals(param.dataType)))
+					.findFirst()
+					.orElse(null);
+			if (overload == null)
+			{
+				continue;
+			}
+
+			Map<String, String> arguments = new HashMap<>();
+			List<CodegenParameter> params = copyParams(overload.allParams);
+			for (CodegenParameter param : params)
+			{
+				if (param.isBodyParam)
+				{
+					arguments.put(param.paramName, "RequestBodies.fromPath(path, null)");
+					param.baseName = "path";
+					param.paramName = "path";
+					param.dataType = "Path";
+					param.description = "The file from which the backup is restored";
+					param.isBodyParam = false;
+				}
+				else if ("Content-Type".equals(param.baseName))
+				{
+					arguments.put(param.paramName, "\"application/octet-stream\"");
+				}
+			}
+			params.removeIf(param -> arguments.containsKey(param.paramName));
+
+			CodegenOperation operationPath = createDefaultMethod(overload, operationId + "FromPath",
+					"Call<" + responseType(overload) + ">", params, invocation(overload, arguments));
+			int index = operations.indexOf(overload);
+			while (index + 1 < operations.size() && operations.get(index + 1).operationId.startsWith(operationId + "Gzip"))
+			{
+				index++;
+			}
+			operations.add(index + 1, operationPath);
+
+			addImport(objs, "java.nio.file.Path", "Path");
+		}
+
+		//
+		// Add gzip variant for streamed responses => asks for compressed response and inflates it during reading
+		//
+		for (String operationId : STREAMING_OPERATIONS)
+		{
+			CodegenOperation operation = findOperation(operations, operationId + "ResponseBody");
+			if (operation == null || operation.allParams.stream().noneMatch(param -> "Accept-Encoding".equals(param.baseName)))
+			{
+				continue;
+			}
+
+			Map<String, String> arguments = new HashMap<>();
+			operation.allParams.stream()
+					.filter(param -> "Accept-Encoding".equals(param.baseName))
+					.forEach(param -> arguments.put(param.paramName, "\"gzip\""));
+
+			List<CodegenParameter> params = copyParams(operation.allParams);
+			params.removeIf(param -> arguments.containsKey(param.paramName));
+
+			String body = "GzipResponseBodyCall.decompress(" + invocation(operation, arguments) + ")";
+			CodegenOperation operationGzip = createDefaultMethod(operation, operationId + "Gzip",
+					"Call<ResponseBody>", params, body);
+			operations.add(operations.indexOf(operation) + 1, operationGzip);
+		}
+
+		//
+		// Add decoded samples of /metrics => the Prometheus text is parsed while the body is read
+		//
+		{
+			CodegenOperation operation = findOperation(operations, "getMetricsResponseBody");
+			if (operation != null)
+			{
+				String call = invocation(operation);
+				CodegenOperation operationSamples = createDefaultMethod(operation, "getMetricsSamples",
+						"Flowable<PrometheusTextDecoder.Sample>", copyParams(operation.allParams),
+						"PrometheusTextDecoder.samples(" + call + ")");
+				CodegenOperation operationFamilies = createDefaultMethod(operation, "getMetricsFamilies",
+						"Flowable<List<PrometheusTextDecoder.Sample>>", copyParams(operation.allParams),
+						"PrometheusTextDecoder.families(" + call + ")");
+
+				int index = operations.indexOf(operation);
+				while (index + 1 < operations.size() && operations.get(index + 1).operationId.startsWith("getMetrics"))
+				{
+					index++;
+				}
+				operations.addAll(index + 1, Arrays.asList(operationSamples, operationFamilies));
+
+				addImport(objs, "io.reactivex.rxjava3.core.Flowable", "Flowable");
+				addImport(objs, "java.util.List", "List");
+			}
+		}
+
+		//
+		// Add Flowable of all items for paginated operations => the next pages are fetched on demand
+		//
+		for (CodegenOperation operation : new ArrayList<>(operations))
+		{
+			if (!"GET".equals(operation.httpMethod) || operation.vendorExtensions.containsKey("x-default-method")
+					|| operation.vendorExtensions.containsKey("x-response-type"))
+			{
+				continue;
+			}
+
+			CodegenParameter offset = findQueryParam(operation, "offset");
+			CodegenParameter after = findQueryParam(operation, "after");
+			CodegenModel page = findModel(allModels, operation.returnType);
+			if (findQueryParam(operation, "limit") == null || (offset == null && after == null) || page == null)
+			{
+				continue;
+			}
+
+			List<CodegenProperty> arrays = page.vars.stream()
+					.filter(property -> property.isListContainer && findModel(allModels, property.complexType) != null)
+					.collect(Collectors.toList());
+			if (arrays.size() != 1)
+			{
+				continue;
+			}
+
+			CodegenProperty items = arrays.get(0);
+			CodegenModel item = findModel(allModels, items.complexType);
+			CodegenProperty id = item.vars.stream()
+					.filter(property -> "id".equals(property.baseName) && "String".equals(property.dataType))
+					.findFirst()
+					.orElse(null);
+
+			// prefer the cursor => the pages are stable when the items are added or removed
+			boolean byCursor = after != null && id != null;
+			Map<String, String> arguments = new HashMap<>();
+			if (offset != null)
+			{
+				arguments.put(offset.paramName, byCursor ? "null" : "position");
+			}
+			if (after != null)
+			{
+				arguments.put(after.paramName, byCursor ? "cursor" : "null");
+			}
+
+			List<CodegenParameter> params = copyParams(operation.allParams);
+			params.removeIf(param -> arguments.containsKey(param.paramName));
+
+			CodegenOperation operationBody = findOperation(operations, operation.operationId + "ResponseBody");
+			if (operationBody == null)
+			{
+				operationBody = createOperationVariant(operation, operation.operationId + "ResponseBody");
+				operationBody.returnType = "ResponseBody";
+				operations.add(operations.indexOf(operation) + 1, operationBody);
+			}
+			operationBody.vendorExtensions.put("x-response-streaming", true);
+
+			String lambda = byCursor ? "cursor -> " : "position -> ";
+			String body = byCursor
+					? String.format("Paginator.byCursor(%s%s, %s::%s, %s::%s, prefetch)", lambda, invocation(operation, arguments),
+					page.classname, items.getter, item.classname, id.getter)
+					: String.format("Paginator.byOffset(%s%s, %s::%s, prefetch)", lambda, invocation(operation, arguments),
+					page.classname, items.getter);
+			String bodyStreaming = byCursor
+					? String.format("Paginator.streamByCursor(%s%s, \"%s\", %s.class, gson, %s::%s)", lambda,
+					invocation(operationBody, arguments), items.baseName, item.classname, item.classname, id.getter)
+					: String.format("Paginator.streamByOffset(%s%s, \"%s\", %s.class, gson)", lambda,
+					invocation(operationBody, arguments), items.baseName, item.classname);
+
+			List<CodegenParameter> paramsPrefetch = copyParams(params);
+			paramsPrefetch.add(createParam("prefetch", "int", "The number of pages which are fetched ahead of the consumer"));
+
+			CodegenOperation operationPaged = createDefaultMethod(operation, operation.operationId + "Paged",
+					"Flowable<" + item.classname + ">", paramsPrefetch, body);
+			// the items are decoded by the Gson of client => the same as the items of Paged variant
+			List<CodegenParameter> paramsGson = copyParams(params);
+			paramsGson.add(createParam("gson", "Gson", "The Gson of the Retrofit converter which decodes the items"));
+
+			CodegenOperation operationPagedStreaming = createDefaultMethod(operation, operation.operationId + "PagedStreaming",
+					"Flowable<" + item.classname + ">", paramsGson, bodyStreaming);
+
+			int index = operations.indexOf(operationBody);
+			operations.add(index + 1, operationPaged);
+			operations.add(index + 2, operationPagedStreaming);
+
+			addImport(objs, "io.reactivex.rxjava3.core.Flowable", "Flowable");
+			addImport(objs, "com.google.gson.Gson", "Gson");
+			addImport(objs, toModelImport(item.classname), item.classname);
+		}
+
+		//
+		// Add blocking facades => the body is returned directly and unsuccessful responses are mapped to exceptions
+		//
+		new ArrayList<>(operations).stream()
+				.filter(operation -> !operation.vendorExtensions.containsKey("x-default-method"))
+				.filter(operation -> !operation.vendorExtensions.containsKey("x-response-type"))
+				.forEach(operation -> {
+					String responseType = responseType(operation);
+					boolean isVoid = "Void".equals(responseType);
+
+					CodegenOperation operationSync = createDefaultMethod(operation, operation.operationId + "Sync",
+							isVoid ? "void" : responseType, copyParams(operation.allParams),
+							"BlockingCalls.execute(" + invocation(operation) + ")");
+					if (isVoid)
+					{
+						operationSync.vendorExtensions.put("x-default-void", true);
+					}
+
+					int index = operations.indexOf(operation);
+					while (index + 1 < operations.size() && operations.get(index + 1).operationId.startsWith(operation.operationId + "Async"))
+					{
+						index++;
+					}
+					operations.add(index + 1, operationSync);
+				});
+
 		//
 		// Fix unrelated imports
 		//
@@ -340,6 +1140,158 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 		return operationsWithModels;
 	}
 
+	@Nullable
+	private CodegenOperation findOperation(@NotNull final List<CodegenOperation> operations,
+										   @NotNull final String operationId)
+	{
+		return operations.stream()
+				.filter(operation -> operationId.equals(operation.operationId))
+				.findFirst()
+				.orElse(null);
+	}
+
+	@Nullable
+	private CodegenParameter findQueryParam(@NotNull final CodegenOperation operation, @NotNull final String name)
+	{
+		return operation.allParams.stream()
+				.filter(param -> param.isQueryParam && name.equals(param.baseName))
+				.findFirst()
+				.orElse(null);
+	}
+
+	@Nullable
+	private CodegenModel findModel(@NotNull final List<Object> allModels, @Nullable final String classname)
+	{
+		return allModels.stream()
+				.map(it -> (CodegenModel) ((HashMap) it).get("model"))
+				.filter(model -> model.classname.equals(classname))
+				.findFirst()
+				.orElse(null);
+	}
+
+	/**
+	 * Create a copy of operation which is mapped to the same HTTP endpoint.
+	 *
+	 * @param operation   the original operation
+	 * @param operationId the name of the new operation
+	 * @return the copy without vendor extensions
+	 */
+	@NotNull
+	private CodegenOperation createOperationVariant(@NotNull final CodegenOperation operation,
+													@NotNull final String operationId)
+	{
+		CodegenOperation variant = new CodegenOperation();
+		variant.baseName = operation.baseName;
+		variant.summary = operation.summary;
+		variant.notes = operation.notes;
+		variant.allParams = operation.allParams;
+		variant.formParams = operation.formParams;
+		variant.prioritizedContentTypes = operation.prioritizedContentTypes;
+		variant.isDeprecated = operation.isDeprecated;
+		variant.httpMethod = operation.httpMethod;
+		variant.path = operation.path;
+		variant.returnType = operation.returnType;
+		variant.isResponseFile = operation.isResponseFile;
+		variant.operationId = operationId;
+
+		return variant;
+	}
+
+	/**
+	 * Create an interface default method which delegates to other operation(s) of the service.
+	 *
+	 * @param operation    the operation used for documentation
+	 * @param operationId  the name of the method
+	 * @param responseType the return type of the method
+	 * @param params       the parameters of the method
+	 * @param body         the returned expression
+	 * @return the default method
+	 */
+	@NotNull
+	private CodegenOperation createDefaultMethod(@NotNull final CodegenOperation operation,
+												 @NotNull final String operationId,
+												 @NotNull final String responseType,
+												 @NotNull final List<CodegenParameter> params,
+												 @NotNull final String body)
+	{
+		params.forEach(param -> param.hasMore = params.indexOf(param) != params.size() - 1);
+
+		CodegenOperation method = createOperationVariant(operation, operationId);
+		method.allParams = params;
+		method.vendorExtensions.put("x-default-method", true);
+		method.vendorExtensions.put("x-default-body", body);
+		method.vendorExtensions.put("x-response-type", responseType);
+
+		return method;
+	}
+
+	@NotNull
+	private List<CodegenParameter> copyParams(@NotNull final List<CodegenParameter> params)
+	{
+		return params.stream().map(CodegenParameter::copy).collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	@NotNull
+	private CodegenParameter createParam(@NotNull final String name,
+										 @NotNull final String dataType,
+										 @NotNull final String description)
+	{
+		CodegenParameter param = new CodegenParameter();
+		param.baseName = name;
+		param.paramName = name;
+		param.dataType = dataType;
+		param.description = description;
+		param.required = true;
+
+		return param;
+	}
+
+	/**
+	 * @return the type of response body: "Bucket", "ResponseBody", "Void"
+	 */
+	@NotNull
+	private String responseType(@NotNull final CodegenOperation operation)
+	{
+		if (operation.isResponseFile)
+		{
+			return "ResponseBody";
+		}
+
+		return operation.returnType != null ? operation.returnType : "Void";
+	}
+
+	/**
+	 * @return "postQueryResponseBody(zapTraceSpan, acceptEncoding, contentType, org, orgID, query)"
+	 */
+	@NotNull
+	private String invocation(@NotNull final CodegenOperation operation)
+	{
+		return invocation(operation, Collections.emptyMap());
+	}
+
+	/**
+	 * @param arguments the expressions used instead of the parameters: "acceptEncoding" => "\"gzip\""
+	 * @return "postQueryResponseBody(zapTraceSpan, \"gzip\", contentType, org, orgID, query)"
+	 */
+	@NotNull
+	private String invocation(@NotNull final CodegenOperation operation, @NotNull final Map<String, String> arguments)
+	{
+		return operation.operationId + "(" + operation.allParams.stream()
+				.map(param -> arguments.getOrDefault(param.paramName, param.paramName))
+				.collect(Collectors.joining(", ")) + ")";
+	}
+
+	private void addImport(@NotNull final Map<String, Object> objs,
+						   @NotNull final String fullyQualifiedName,
+						   @NotNull final String classname)
+	{
+		List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
+		if (imports.stream().noneMatch(it -> fullyQualifiedName.equals(it.get("import"))))
+		{
+			imports.add(ImmutableMap.of("import", fullyQualifiedName, "classname", classname));
+		}
+	}
+
 	@Override
 	public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Schema> definitions, OpenAPI openAPI)
 	{
@@ -351,6 +1303,36 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 	}
 
 
+	/**
+	 * @return {@code true} if the JSON operations are also generated with {@code ResponseBody} as the response
+	 */
+	private boolean isRawResponseVariants()
+	{
+		Object value = additionalProperties.get("rawResponseVariants");
+
+		return value != null && Boolean.parseBoolean(value.toString());
+	}
+
+	/**
+	 * @return {@code true} if the numbers and booleans are stored as primitives with the presence bits
+	 */
+	private boolean isPrimitiveProperties()
+	{
+		Object value = additionalProperties.get("primitiveProperties");
+
+		return value != null && Boolean.parseBoolean(value.toString());
+	}
+
+	/**
+	 * @return {@code true} if the polymorphic properties are generated as {@code LazyJsonValue}
+	 */
+	private boolean isLazyPolymorphicProperties()
+	{
+		Object value = additionalProperties.get("lazyPolymorphicProperties");
+
+		return value != null && Boolean.parseBoolean(value.toString());
+	}
+
 	@Override
 	public CodegenModel fromModel(final String name, final Schema schema, final Map<String, Schema> allDefinitions)
 	{
@@ -359,6 +1341,25 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 		postProcessHelper.postProcessModel(model, schema, allDefinitions);
 		model.imports.remove("ApiModel");
 
+		//
+		// Render polymorphic properties as lazy holders => the payload is decoded on first access
+		//
+		if (isLazyPolymorphicProperties() && model.vendorExtensions.containsKey("x-type-adapters"))
+		{
+			Map<String, PostProcessHelper.TypeAdapter> adapters = (Map<String, PostProcessHelper.TypeAdapter>) model.vendorExtensions
+					.get("x-type-adapters");
+
+			Stream.of(model.vars, model.allVars, model.requiredVars, model.optionalVars, model.readWriteVars)
+					.filter(Objects::nonNull)
+					.flatMap(Collection::stream)
+					.filter(property -> !property.isContainer)
+					.filter(property -> adapters.containsKey(property.vendorExtensions.get("x-type-adapter")))
+					.forEach(property -> {
+						property.vendorExtensions.put("x-lazy", true);
+						property.vendorExtensions.put("x-getter-access", true);
+					});
+		}
+
 		return model;
 	}
 
@@ -371,6 +1372,17 @@ public class InfluxJavaGenerator extends JavaClientCodegen implements InfluxGene
 		model.imports.remove("ApiModel");
 
 		postProcessHelper.postProcessModelProperty(model, property);
+
+		//
+		// Deduplicate low-cardinality strings => the same IDs and types are shared by all deserialized models
+		//
+		if ("String".equals(property.datatypeWithEnum) && !property.isContainer
+				&& !property.vendorExtensions.containsKey("x-type-adapter")
+				&& (property.vendorExtensions.containsKey("x-has-static-values") || DEDUPLICATED_PROPERTIES.contains(property.baseName)))
+		{
+			property.vendorExtensions.put("x-has-type-adapter", true);
+			property.vendorExtensions.put("x-type-adapter", invokerPackage + ".JSON.DeduplicatingStringAdapter");
+		}
 	}
 
 	@Override
@@ -4,23 +4,40 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.openapitools.codegen.CodegenModel;
 import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenProperty;
 import org.openapitools.codegen.SupportingFile;
 import org.openapitools.codegen.languages.PythonClientCodegen;
 import org.openapitools.codegen.utils.StringUtils;
 
 public class InfluxPythonGenerator extends PythonClientCodegen implements InfluxGenerator  {
 
+	/**
+	 * Python types which are decoded by the constructor.
+	 */
+	private static final Map<String, String> PRIMITIVE_TYPES = ImmutableMap.of(
+			"int", "int", "long", "int", "float", "float", "str", "str", "bool", "bool");
+
+	private static final Pattern LIST_TYPE = Pattern.compile("list\\[(\\w+)]");
+	private static final Pattern DICT_TYPE = Pattern.compile("dict\\(str, (\\w+)\\)");
+
 	private PostProcessHelper postProcessHelper;
 
     public InfluxPythonGenerator() {
@@ -65,6 +82,13 @@ public class InfluxPythonGenerator extends PythonClientCodegen implements Influx
 		postProcessHelper.postProcessOperation(path, operation, op, definitions);
 		op.vendorExtensions.put("x-async-enabled", true);
 
+		//
+		// Add decoded samples of /metrics => the Prometheus text is parsed while the body is read
+		//
+		if ("get_metrics".equals(op.operationId)) {
+			op.vendorExtensions.put("x-prometheus-text", true);
+		}
+
 		return op;
 	}
 
@@ -92,6 +116,8 @@ public class InfluxPythonGenerator extends PythonClientCodegen implements Influx
 
 		supportingFiles.add(new SupportingFile("rest_commons.mustache", packageName, "rest.py"));
 		supportingFiles.add(new SupportingFile("_base_service.mustache", packageName + File.separatorChar + "service", "_base_service.py"));
+		supportingFiles.add(new SupportingFile("_prometheus_text.mustache", packageName + File.separatorChar + "service", "_prometheus_text.py"));
+		supportingFiles.add(new SupportingFile("_codec.mustache", packageName + File.separatorChar + "domain", "_codec.py"));
     }
 
     @Override
@@ -100,9 +126,120 @@ public class InfluxPythonGenerator extends PythonClientCodegen implements Influx
         Map<String, Object> allModels = super.postProcessAllModels(models);
 		postProcessHelper.postProcessModels(allModels);
 
+		//
+		// Resolve the decoders of properties => the _from_dict of model doesn't look up the types at runtime
+		//
+		allModels.values().stream()
+				.map(modelConfig -> postProcessHelper.getModel((HashMap) modelConfig))
+				.forEach(this::addDecoders);
+
+		//
+		// Resolve the encoders of properties => the _to_json_dict of model doesn't introspect the instance
+		//
+		List<String> valueModels = allModels.values().stream()
+				.map(modelConfig -> postProcessHelper.getModel((HashMap) modelConfig))
+				.filter(model -> Boolean.TRUE.equals(model.vendorExtensions.get("x-py-decode-data")))
+				.map(model -> model.classname)
+				.collect(Collectors.toList());
+		allModels.values().stream()
+				.map(modelConfig -> postProcessHelper.getModel((HashMap) modelConfig))
+				.forEach(model -> addEncoders(model, valueModels));
+
 		return allModels;
     }
 
+	private void addDecoders(@NotNull final CodegenModel model) {
+
+		List<CodegenProperty> parentVars = (List<CodegenProperty>) model.vendorExtensions.get("x-parent-vars");
+
+		Stream.of(model.vars, parentVars)
+				.filter(Objects::nonNull)
+				.flatMap(Collection::stream)
+				.forEach(property -> {
+					String value = "data['" + property.baseName.replace("'", "\\'") + "']";
+					property.vendorExtensions.put("x-py-decode", decodeExpression(property.dataType, value));
+				});
+
+		model.vendorExtensions.put("x-py-decode-data",
+				!model.hasVars && (parentVars == null || parentVars.isEmpty()) && model.discriminator == null);
+	}
+
+	@NotNull
+	private String decodeExpression(@NotNull final String dataType, @NotNull final String value) {
+
+		if (PRIMITIVE_TYPES.containsKey(dataType)) {
+			return "_codec.decode_primitive(" + value + ", " + PRIMITIVE_TYPES.get(dataType) + ")";
+		}
+		if ("object".equals(dataType)) {
+			return value;
+		}
+		if ("date".equals(dataType) || "datetime".equals(dataType)) {
+			return "_codec.decode_" + dataType + "(" + value + ")";
+		}
+
+		Matcher list = LIST_TYPE.matcher(dataType);
+		if (list.matches() && PRIMITIVE_TYPES.containsKey(list.group(1))) {
+			return "_codec.decode_primitive_list(" + value + ", " + PRIMITIVE_TYPES.get(list.group(1)) + ")";
+		}
+		if (list.matches() && isModelName(list.group(1))) {
+			return "_codec.decode_model_list(" + value + ", '" + list.group(1) + "')";
+		}
+
+		Matcher dict = DICT_TYPE.matcher(dataType);
+		if (dict.matches() && PRIMITIVE_TYPES.containsKey(dict.group(1))) {
+			return "_codec.decode_primitive_dict(" + value + ", " + PRIMITIVE_TYPES.get(dict.group(1)) + ")";
+		}
+		if (dict.matches() && isModelName(dict.group(1))) {
+			return "_codec.decode_model_dict(" + value + ", '" + dict.group(1) + "')";
+		}
+
+		if (isModelName(dataType)) {
+			return "_codec.decode_model(" + value + ", '" + dataType + "')";
+		}
+
+		return "_codec.decode(" + value + ", '" + dataType + "')";
+	}
+
+	private void addEncoders(@NotNull final CodegenModel model, @NotNull final List<String> valueModels) {
+
+		Stream.of(model.vars, (List<CodegenProperty>) model.vendorExtensions.get("x-parent-vars"))
+				.filter(Objects::nonNull)
+				.flatMap(Collection::stream)
+				.forEach(property -> property.vendorExtensions.put("x-py-encode",
+						encodeExpression(property.dataType, valueModels)));
+	}
+
+	/**
+	 * @param valueModels the models without properties, their values are the plain JSON values, for example enums
+	 */
+	@NotNull
+	private String encodeExpression(@NotNull final String dataType, @NotNull final List<String> valueModels) {
+
+		if (PRIMITIVE_TYPES.containsKey(dataType)) {
+			return "value if value.__class__ is " + PRIMITIVE_TYPES.get(dataType) + " else _codec.encode(value)";
+		}
+		if (valueModels.contains(dataType)) {
+			return "value if value.__class__ is str else _codec.encode(value)";
+		}
+		if ("date".equals(dataType) || "datetime".equals(dataType)) {
+			return "_codec.encode_datetime(value)";
+		}
+
+		Matcher list = LIST_TYPE.matcher(dataType);
+		if (list.matches() && isModelName(list.group(1)) && !valueModels.contains(list.group(1))) {
+			return "_codec.encode_model_list(value)";
+		}
+		if (isModelName(dataType)) {
+			return "_codec.encode_model(value)";
+		}
+
+		return "_codec.encode(value)";
+	}
+
+	private boolean isModelName(@NotNull final String dataType) {
+		return dataType.matches("[A-Z]\\w*");
+	}
+
 	@Override
 	public Map<String, Object> postProcessOperationsWithModels(final Map<String, Object> objs,
 															   final List<Object> allModels) {